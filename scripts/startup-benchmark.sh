@@ -0,0 +1,127 @@
+#!/usr/bin/env bash
+# Measures time-to-first-successful-redirect for the JVM jar (with and without the AOT-processed
+# context) and the native binary.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+#
+# Build both artifacts first:
+#   ./gradlew bootJar
+#   ./gradlew nativeCompile
+#
+# The coordinator must be reachable, override it with COORDINATOR=host:port.
+# Set BASELINE_JAR to also measure an older build, e.g. one from before a change.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-10000}
+COORDINATOR=${COORDINATOR:-localhost:2181}
+JAR=${JAR:-build/libs/is-v2-0.0.1-SNAPSHOT.jar}
+NATIVE=${NATIVE:-build/native/nativeCompile/is-v2}
+BASELINE_JAR=${BASELINE_JAR:-}
+TARGET_URL=${TARGET_URL:-https://www.google.com}
+# Give up on a run if the app hasn't answered by then
+STARTUP_TIMEOUT=${STARTUP_TIMEOUT:-120}
+
+# The benchmark instance shouldn't join the ensemble
+export is_leader=true
+
+APP_ARGS=(--server.port="$PORT" --zookeeper.coordinator_address="$COORDINATOR")
+APP_PID=
+
+now_ms() {
+    date +%s%3N
+}
+
+stop_app() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=
+    fi
+}
+trap stop_app EXIT
+
+# Fails if the app died or the deadline (in ms) passed, so a crash doesn't spin forever
+check_app() {
+    local deadline=$1
+    if ! kill -0 "$APP_PID" 2>/dev/null; then
+        echo "app exited before it was ready, see its output by running it directly" >&2
+        APP_PID=
+        return 1
+    fi
+    if (( $(now_ms) > deadline )); then
+        echo "app not ready after ${STARTUP_TIMEOUT}s" >&2
+        stop_app
+        return 1
+    fi
+}
+
+wait_for_port() {
+    local deadline=$(( $(now_ms) + STARTUP_TIMEOUT * 1000 ))
+    until curl -s -o /dev/null "http://localhost:$PORT/"; do
+        check_app "$deadline" || return 1
+        sleep 0.01
+    done
+}
+
+# Shortens TARGET_URL once against the JVM build, so every run redirects the same code
+seed_code() {
+    java -jar "$JAR" "${APP_ARGS[@]}" > /dev/null 2>&1 &
+    APP_PID=$!
+    wait_for_port || return 1
+    curl -s -X POST -H 'Content-Type: application/json' \
+        -d "{\"url\": \"$TARGET_URL\"}" "http://localhost:$PORT/" \
+        | sed -n 's/.*"url":"\([^"]*\)".*/\1/p'
+    stop_app
+}
+
+# Prints the milliseconds from process launch until GET /<code> answers with a redirect
+time_to_first_redirect() {
+    local code=$1
+    shift
+    local start
+    start=$(now_ms)
+    "$@" "${APP_ARGS[@]}" > /dev/null 2>&1 &
+    APP_PID=$!
+    local deadline=$(( start + STARTUP_TIMEOUT * 1000 ))
+    until [[ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/$code")" =~ ^30[1278]$ ]]; do
+        check_app "$deadline" || return 1
+        sleep 0.005
+    done
+    echo $(( $(now_ms) - start ))
+    stop_app
+}
+
+benchmark() {
+    local name=$1 code=$2
+    shift 2
+    local samples=()
+    for ((i = 0; i < RUNS; i++)); do
+        samples+=("$(time_to_first_redirect "$code" "$@")")
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${samples[@]}" | sort -n)
+    printf '%-8s runs=%d min=%sms median=%sms max=%sms\n' "$name" "$RUNS" \
+        "$(echo "$sorted" | head -1)" \
+        "$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")" \
+        "$(echo "$sorted" | tail -1)"
+}
+
+CODE=$(seed_code || true)
+if [[ -z "$CODE" ]]; then
+    echo "Failed to shorten $TARGET_URL, is the coordinator at $COORDINATOR reachable?" >&2
+    exit 1
+fi
+echo "Redirecting /$CODE -> $TARGET_URL"
+
+if [[ -n "$BASELINE_JAR" ]]; then
+    benchmark baseline "$CODE" java -jar "$BASELINE_JAR"
+fi
+benchmark jvm "$CODE" java -jar "$JAR"
+# The same AOT-processed context the native image uses, still on the JVM
+benchmark jvm-aot "$CODE" java -Dspring.aot.enabled=true -jar "$JAR"
+if [[ -x "$NATIVE" ]]; then
+    benchmark native "$CODE" "$NATIVE"
+else
+    echo "native binary not found at $NATIVE, run ./gradlew nativeCompile" >&2
+fi
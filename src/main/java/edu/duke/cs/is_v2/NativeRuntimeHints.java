@@ -0,0 +1,49 @@
+package edu.duke.cs.is_v2;
+
+import edu.duke.cs.is_v2.controller.UrlShortenerController;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+// Hints for the native image, for everything Spring AOT can't discover on its own.
+// These are all the reflective lookups in the client paths of curator 5.3.0, zookeeper 3.6.3
+// (with SASL off, see ZooKeeperClient.clientConfig) and log4j-api 2.23
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // ZooKeeper picks its socket implementation by class name (zookeeper.clientCnxnSocket)
+        // and calls its (ZKClientConfig) constructor
+        hints.reflection().registerType(
+                TypeReference.of("org.apache.zookeeper.ClientCnxnSocketNIO"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        // Curator's Compatibility probes these in its static initializer. Without them
+        // the ensemble tracker can't read server addresses and reconfig fails
+        hints.reflection().registerType(
+                TypeReference.of("org.apache.zookeeper.server.quorum.MultipleAddresses"),
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(
+                TypeReference.of("org.apache.zookeeper.server.quorum.QuorumPeer$QuorumServer"),
+                MemberCategory.PUBLIC_FIELDS);
+        hints.reflection().registerType(TypeReference.of("org.apache.zookeeper.AddWatchMode"));
+
+        // Lombok's @Log4j2 goes through log4j-api, which instantiates the provider's
+        // logger context factory and MDC map from their classes reflectively
+        hints.reflection().registerType(
+                TypeReference.of("org.apache.logging.slf4j.SLF4JLoggerContextFactory"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(
+                TypeReference.of("org.apache.logging.slf4j.MDCContextMap"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        // shortenUrl returns Object, so AOT can't tell Jackson needs the record.
+        // UrlRequest is a Lombok @Data class, register its accessors explicitly as well
+        BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+        bindingHints.registerReflectionHints(hints.reflection(),
+                UrlAccessor.UrlAttemptsPair.class,
+                UrlShortenerController.UrlRequest.class);
+    }
+}
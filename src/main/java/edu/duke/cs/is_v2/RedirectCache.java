@@ -0,0 +1,116 @@
+package edu.duke.cs.is_v2;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+// Keeps fully built redirect responses for recently used codes, so a hit costs no ZK read,
+// no URI parsing and no header building
+@Component
+public class RedirectCache {
+
+    private final UrlAccessor urlAccessor;
+    private final RedirectPolicy globalPolicy;
+
+    // Shortened URLs never change once created, so entries only expire to bound memory
+    private final Cache<String, CachedRedirect> cache = CacheBuilder.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
+    @Autowired
+    public RedirectCache(UrlAccessor urlAccessor,
+                         @Value("${redirect.status:302}") int status,
+                         @Value("${redirect.max_age:0}") long maxAgeSeconds) {
+        this.urlAccessor = urlAccessor;
+        this.globalPolicy = new RedirectPolicy(status, maxAgeSeconds);
+    }
+
+    // The precomputed responses for one code, both are immutable and shared between requests
+    record CachedRedirect(ResponseEntity<Void> redirect, ResponseEntity<Void> notModified,
+                          String eTag, String lastModified, long lastModifiedSeconds) {
+
+        ResponseEntity<Void> respond(String ifNoneMatch, String ifModifiedSince) {
+            // If-None-Match takes precedence over If-Modified-Since (RFC 9110, 13.2.2)
+            if (ifNoneMatch != null) {
+                return matchesETag(ifNoneMatch) ? notModified : redirect;
+            }
+            if (ifModifiedSince != null && notModifiedSince(ifModifiedSince)) {
+                return notModified;
+            }
+            return redirect;
+        }
+
+        private boolean matchesETag(String ifNoneMatch) {
+            // Also covers weak validators (W/"...") and lists of tags
+            return ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(eTag);
+        }
+
+        private boolean notModifiedSince(String ifModifiedSince) {
+            // Clients normally echo back our own Last-Modified, so skip the date parsing then
+            if (ifModifiedSince.equals(lastModified)) {
+                return true;
+            }
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+                return lastModifiedSeconds <= since;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+    }
+
+    // Returns null if the shortened URL doesn't exist
+    public ResponseEntity<Void> redirect(String shortenedUrl, String ifNoneMatch, String ifModifiedSince) {
+        CachedRedirect cached = cache.getIfPresent(shortenedUrl);
+
+        if (cached == null) {
+            UrlAccessor.StoredUrl storedUrl = urlAccessor.getStoredUrl(shortenedUrl);
+            if (storedUrl == null) {
+                // Not cached, the code may still be created later
+                return null;
+            }
+            cached = precompute(storedUrl, globalPolicy.withOverrides(storedUrl.overrides()));
+            cache.put(shortenedUrl, cached);
+        }
+
+        return cached.respond(ifNoneMatch, ifModifiedSince);
+    }
+
+    static CachedRedirect precompute(UrlAccessor.StoredUrl storedUrl, RedirectPolicy policy) {
+        // mzxid changes on every write to the znode, so it identifies this version of the URL
+        String eTag = "\"" + Long.toHexString(storedUrl.stat().getMzxid()) + "\"";
+        long lastModifiedSeconds = storedUrl.stat().getMtime() / 1000;
+
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag(eTag);
+        validators.setLastModified(lastModifiedSeconds * 1000);
+        if (policy.isCacheable()) {
+            validators.setCacheControl(CacheControl.maxAge(policy.maxAgeSeconds(), TimeUnit.SECONDS).cachePublic());
+        }
+
+        HttpHeaders redirectHeaders = new HttpHeaders();
+        redirectHeaders.putAll(validators);
+        // Same value ResponseEntity.location(URI.create(...)) would produce, computed once
+        redirectHeaders.set(HttpHeaders.LOCATION, URI.create(storedUrl.url()).toASCIIString());
+
+        return new CachedRedirect(
+                new ResponseEntity<>(redirectHeaders, HttpStatus.valueOf(policy.status())),
+                new ResponseEntity<>(validators, HttpStatus.NOT_MODIFIED),
+                eTag,
+                validators.getFirst(HttpHeaders.LAST_MODIFIED),
+                lastModifiedSeconds);
+    }
+}
@@ -0,0 +1,29 @@
+package edu.duke.cs.is_v2;
+
+// The parts of the redirect policy a single link sets itself. A null field means
+// the global redirect.status or redirect.max_age applies, resolved when the link is read
+public record RedirectOverrides(Integer status, Long maxAgeSeconds) {
+
+    public RedirectOverrides {
+        if (status != null && !RedirectPolicy.isRedirectStatus(status)) {
+            throw new IllegalArgumentException("Not a redirect status: " + status);
+        }
+        if (maxAgeSeconds != null && maxAgeSeconds < 0) {
+            throw new IllegalArgumentException("max-age can't be negative: " + maxAgeSeconds);
+        }
+    }
+
+    // Stored after the URL in its znode as "<status>:<maxAgeSeconds>", either side may be empty
+    public String encode() {
+        return (status != null ? status.toString() : "") + ":" + (maxAgeSeconds != null ? maxAgeSeconds.toString() : "");
+    }
+
+    public static RedirectOverrides decode(String encoded) {
+        int separator = encoded.indexOf(':');
+        String status = encoded.substring(0, separator);
+        String maxAgeSeconds = encoded.substring(separator + 1);
+        return new RedirectOverrides(
+                status.isEmpty() ? null : Integer.valueOf(status),
+                maxAgeSeconds.isEmpty() ? null : Long.valueOf(maxAgeSeconds));
+    }
+}
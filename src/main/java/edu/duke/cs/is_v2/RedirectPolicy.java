@@ -0,0 +1,37 @@
+package edu.duke.cs.is_v2;
+
+import java.util.Set;
+
+// How a shortened URL redirects: the status code, and how long clients and proxies may cache it.
+// A maxAgeSeconds of 0 sends no Cache-Control header
+public record RedirectPolicy(int status, long maxAgeSeconds) {
+
+    private static final Set<Integer> REDIRECT_STATUSES = Set.of(301, 302, 303, 307, 308);
+
+    public RedirectPolicy {
+        if (!isRedirectStatus(status)) {
+            throw new IllegalArgumentException("Not a redirect status: " + status);
+        }
+        if (maxAgeSeconds < 0) {
+            throw new IllegalArgumentException("max-age can't be negative: " + maxAgeSeconds);
+        }
+    }
+
+    public static boolean isRedirectStatus(int status) {
+        return REDIRECT_STATUSES.contains(status);
+    }
+
+    public boolean isCacheable() {
+        return maxAgeSeconds > 0;
+    }
+
+    // This policy with whatever the link set itself taking precedence
+    public RedirectPolicy withOverrides(RedirectOverrides overrides) {
+        if (overrides == null) {
+            return this;
+        }
+        return new RedirectPolicy(
+                overrides.status() != null ? overrides.status() : status,
+                overrides.maxAgeSeconds() != null ? overrides.maxAgeSeconds() : maxAgeSeconds);
+    }
+}
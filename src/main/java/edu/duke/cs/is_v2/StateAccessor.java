@@ -2,6 +2,7 @@ package edu.duke.cs.is_v2;
 
 import com.google.common.cache.CacheBuilder;
 import edu.duke.cs.is_v2.zookeeper.ZooKeeperClient;
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.curator.framework.recipes.atomic.AtomicValue;
 import org.apache.curator.framework.recipes.atomic.DistributedAtomicLong;
@@ -14,6 +15,7 @@ import com.google.common.cache.Cache;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -32,21 +34,31 @@ public class StateAccessor {
 
     public static int LIMIT = 10;
 
+    // Completes once the hash length node exists and is being watched
+    @Getter
+    private final CompletableFuture<Void> initialized;
+
     @Autowired
     public StateAccessor(ZooKeeperClient zkClient) {
         this.zkClient = zkClient;
 
-        initialize();
-
         this.cache = CacheBuilder.newBuilder()
                 .expireAfterWrite(10, TimeUnit.SECONDS)
                 .build();
 
-        log.debug("StateAccessor initialized");
+        // Don't block the constructor on ZK, the setup runs as soon as the client is connected
+        this.initialized = zkClient.getCuratorFuture().thenRunAsync(() -> {
+            initialize();
+            watchHashLength();
+            log.debug("StateAccessor initialized");
+        }, runnable -> new Thread(runnable, "state-init").start());
+
         new Thread(this::hashLengthIncrementerHandler).start();
         new Thread(this::accumulateIncrements).start();
+    }
 
-        // Setup watch on hash length, so we invalidate the cache when it changes
+    // Setup watch on hash length, so we invalidate the cache when it changes
+    private void watchHashLength() {
         try {
             zkClient.getCurator().getData().usingWatcher((Watcher) event -> {
                 if (event.getType() == Watcher.Event.EventType.NodeDataChanged) {
@@ -77,6 +89,7 @@ public class StateAccessor {
     }
 
     public int getCurrentHashLength(boolean forceRefresh) {
+        initialized.join();
 
         if (forceRefresh) {
             cache.invalidate(HASH_LENGTH);
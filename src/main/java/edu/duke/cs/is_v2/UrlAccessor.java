@@ -5,6 +5,7 @@ import edu.duke.cs.is_v2.exception.UnusedHashNotFoundException;
 import edu.duke.cs.is_v2.zookeeper.ZooKeeperClient;
 import lombok.extern.log4j.Log4j2;
 import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -23,13 +24,22 @@ public class UrlAccessor {
     @Autowired
     private StateAccessor stateAccessor;
 
+    public static final String URLS_PATH = "/urls";
+
     public record UrlAttemptsPair(String url, int attempts) {}
 
-    public UrlAttemptsPair generateShortened(String url) throws UnusedHashNotFoundException {
+    // The original URL along with its znode Stat and the policy overrides it was shortened with, if any
+    public record StoredUrl(String url, Stat stat, RedirectOverrides overrides) {}
+
+    public UrlAttemptsPair generateShortened(String url, RedirectOverrides overrides) throws UnusedHashNotFoundException {
+        // The overrides are stored on a line after the URL, see encode
+        if (url.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("URL can't contain a line break");
+        }
 
         if(url.equals("http://courses.cs.duke.edu/fall24/compsci512/index.html")) {
             String overriddenUrl = "please_give_us_extra_credit";
-            atomicCheckAndPersist(overriddenUrl, url);
+            atomicCheckAndPersist(overriddenUrl, url, overrides);
             return new UrlAttemptsPair(overriddenUrl, 1);
         }
 
@@ -39,7 +49,7 @@ public class UrlAccessor {
             int length = stateAccessor.getCurrentHashLength();
             String shortenedUrl = hash(url, (int) (Math.random() * Integer.MAX_VALUE), length);
 
-            if (atomicCheckAndPersist(shortenedUrl, url)) {
+            if (atomicCheckAndPersist(shortenedUrl, url, overrides)) {
                 stateAccessor.incrementCountForLength(length);
                 log.debug("Generated URL after {} attempts: {}", n + 1, shortenedUrl);
                 return new UrlAttemptsPair(shortenedUrl, n + 1);
@@ -67,13 +77,13 @@ public class UrlAccessor {
         );
     }
 
-    private boolean atomicCheckAndPersist(String shortenedUrl, String originalUrl) {
+    private boolean atomicCheckAndPersist(String shortenedUrl, String originalUrl, RedirectOverrides overrides) {
         try {
-            String path = "/urls/" + shortenedUrl;
+            String path = URLS_PATH + "/" + shortenedUrl;
             zkClient.getCurator()
                     .create()
                     .creatingParentsIfNeeded()
-                    .forPath(path, originalUrl.getBytes());
+                    .forPath(path, encode(originalUrl, overrides).getBytes());
 
             return true;
         } catch (KeeperException.NodeExistsException e) {
@@ -86,11 +96,25 @@ public class UrlAccessor {
         }
     }
 
-    public String getOriginalUrl(String shortenedUrl) {
+    // Links with overrides keep them on a second line of the znode data,
+    // so a redirect is always a single read
+    static String encode(String originalUrl, RedirectOverrides overrides) {
+        return overrides == null ? originalUrl : originalUrl + "\n" + overrides.encode();
+    }
+
+    static StoredUrl decode(String data, Stat stat) {
+        int newline = data.indexOf('\n');
+        if (newline < 0) {
+            return new StoredUrl(data, stat, null);
+        }
+        return new StoredUrl(data.substring(0, newline), stat, RedirectOverrides.decode(data.substring(newline + 1)));
+    }
+
+    public StoredUrl getStoredUrl(String shortenedUrl) {
         try {
-            String path = "/urls/" + shortenedUrl;
-            byte[] data = zkClient.getCurator().getData().forPath(path);
-            return new String(data);
+            Stat stat = new Stat();
+            byte[] data = zkClient.getCurator().getData().storingStatIn(stat).forPath(URLS_PATH + "/" + shortenedUrl);
+            return decode(new String(data), stat);
         } catch (KeeperException.NoNodeException e) {
             log.warn("Shortened URL not found in ZooKeeper: {}", shortenedUrl);
             return null;
@@ -0,0 +1,40 @@
+package edu.duke.cs.is_v2;
+
+import edu.duke.cs.is_v2.zookeeper.ZooKeeperClient;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+
+// ZK setup runs in the background while the context starts. Wait for it here, and if it
+// failed shut down instead of staying up and answering every request with a 500
+@Component
+@Log4j2
+public class ZooKeeperStartupCheck implements ApplicationRunner {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ZooKeeperClient zkClient;
+
+    @Autowired
+    private StateAccessor stateAccessor;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            zkClient.getCuratorFuture().join();
+            stateAccessor.getInitialized().join();
+            log.info("ZooKeeper setup done");
+        } catch (CompletionException e) {
+            log.error("ZooKeeper setup failed, shutting down", e.getCause());
+            System.exit(SpringApplication.exit(context, () -> 1));
+        }
+    }
+}
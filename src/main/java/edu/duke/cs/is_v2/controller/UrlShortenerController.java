@@ -1,13 +1,15 @@
 package edu.duke.cs.is_v2.controller;
 
+import edu.duke.cs.is_v2.RedirectCache;
+import edu.duke.cs.is_v2.RedirectOverrides;
 import edu.duke.cs.is_v2.UrlAccessor;
 import edu.duke.cs.is_v2.exception.UnusedHashNotFoundException;
 import lombok.Data;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.net.URI;
 
 @RestController
 @Log4j2
@@ -16,16 +18,31 @@ public class UrlShortenerController {
     @Autowired
     private UrlAccessor urlAccessor;
 
+    @Autowired
+    private RedirectCache redirectCache;
+
     @Data
     public static class UrlRequest {
         private String url;
+        // Optional, whichever is missing follows the global redirect.status and redirect.max_age
+        private Integer redirectStatus;
+        private Long maxAge;
     }
 
     @PostMapping("/")
     public Object shortenUrl(@RequestBody UrlRequest urlRequest) throws UnusedHashNotFoundException {
         String url = urlRequest.getUrl();
+
         try {
-            return urlAccessor.generateShortened(url);
+            RedirectOverrides overrides = null;
+            if (urlRequest.getRedirectStatus() != null || urlRequest.getMaxAge() != null) {
+                overrides = new RedirectOverrides(urlRequest.getRedirectStatus(), urlRequest.getMaxAge());
+            }
+            return urlAccessor.generateShortened(url, overrides);
+        } catch (IllegalArgumentException e) {
+            // An invalid redirect policy, or a URL we can't store
+            log.warn("Invalid request to shorten {}: {}", url, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("Failed to shorten URL: {}\nFull stack trace: {}", url, e);
             throw new UnusedHashNotFoundException("Failed to shorten URL: " + url);
@@ -33,12 +50,15 @@ public class UrlShortenerController {
     }
 
     @GetMapping("/{shortenedUrl}")
-    public ResponseEntity<Void> redirectToOriginalUrl(@PathVariable String shortenedUrl) {
+    public ResponseEntity<Void> redirectToOriginalUrl(
+            @PathVariable String shortenedUrl,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
         try {
-            String originalUrl = urlAccessor.getOriginalUrl(shortenedUrl);
-            if (originalUrl != null) {
-                // Redirect user
-                return ResponseEntity.status(302).location(URI.create(originalUrl)).build();
+            ResponseEntity<Void> redirect = redirectCache.redirect(shortenedUrl, ifNoneMatch, ifModifiedSince);
+            if (redirect != null) {
+                // Redirect user, or 304 if they already have it cached
+                return redirect;
             } else {
                 log.warn("Shortened URL not found: {}", shortenedUrl);
                 return ResponseEntity.notFound().build();
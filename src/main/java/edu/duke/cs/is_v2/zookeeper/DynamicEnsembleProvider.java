@@ -7,6 +7,7 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.curator.ensemble.EnsembleProvider;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.framework.imps.CuratorFrameworkState;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.springframework.lang.NonNull;
 
@@ -25,23 +26,28 @@ public class DynamicEnsembleProvider implements EnsembleProvider {
     private final String coordinatorAddress;
 
     @Getter
-    List<Node> ensembleNodes = new ArrayList<>();
+    volatile List<Node> ensembleNodes = new ArrayList<>();
     Lock lock = new ReentrantLock();
 
     public DynamicEnsembleProvider(@NonNull String coordinatorAddress) {
         this.coordinatorAddress = coordinatorAddress;
-        log.info("Connecting to coordinator at {}", coordinatorAddress);
-        this.coordinatorClient = CuratorFrameworkFactory.newClient(
-                coordinatorAddress, new ExponentialBackoffRetry(1000, 3)
-        );
-        this.coordinatorClient.start();
-        refreshConnectionString(); // Initial connection string
+        this.coordinatorClient = CuratorFrameworkFactory.builder()
+                .connectString(coordinatorAddress)
+                .retryPolicy(new ExponentialBackoffRetry(1000, 3))
+                .zkClientConfig(ZooKeeperClient.clientConfig())
+                .build();
+        // The coordinator client is started and the ensemble fetched on the first refresh()
     }
 
-    // Get updated connection string from the coordinator
-    private void refreshConnectionString() {
+    // Get updated connection string from the coordinator, connecting to it first if needed
+    public void refresh() {
         lock.lock();
         try {
+            if (coordinatorClient.getState() == CuratorFrameworkState.LATENT) {
+                log.info("Connecting to coordinator at {}", coordinatorAddress);
+                coordinatorClient.start();
+            }
+
             if (coordinatorClient.checkExists().forPath(ENSEMBLE_PATH) == null) {
                 coordinatorClient.create().creatingParentsIfNeeded().forPath(ENSEMBLE_PATH);
             }
@@ -81,7 +87,10 @@ public class DynamicEnsembleProvider implements EnsembleProvider {
 
     @Override
     public void start() {
-        refreshConnectionString();  // Initial fetch when starting
+        // ZooKeeperClient already refreshed before starting Curator, only fetch if nobody did
+        if (ensembleNodes.isEmpty()) {
+            refresh();
+        }
     }
 
     @Override
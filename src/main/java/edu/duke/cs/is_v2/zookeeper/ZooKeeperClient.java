@@ -8,6 +8,7 @@ import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.client.ZKClientConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -19,36 +20,78 @@ import java.net.SocketException;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static edu.duke.cs.is_v2.zookeeper.DynamicEnsembleProvider.ENSEMBLE_PATH;
 
-@Getter
 @Log4j2
 @Component
 public class ZooKeeperClient {
 
-    private final CuratorFramework curator;
+    @Getter
+    private final CompletableFuture<CuratorFramework> curatorFuture;
 
     @Autowired
     public ZooKeeperClient(@Value("${zookeeper.coordinator_address}") String coordinatorAddress) {
-        // Initialize Curator with DynamicEnsembleProvider
+        // Connect in the background so the rest of the Spring context can start meanwhile,
+        // callers wait for it the first time they need the curator
+        this.curatorFuture = CompletableFuture.supplyAsync(
+                () -> connect(coordinatorAddress),
+                runnable -> new Thread(runnable, "zk-init").start());
+    }
+
+    public CuratorFramework getCurator() {
+        return curatorFuture.join();
+    }
 
+    private CuratorFramework connect(String coordinatorAddress) {
+        // Initialize Curator with DynamicEnsembleProvider
         DynamicEnsembleProvider ensembleProvider = new DynamicEnsembleProvider(coordinatorAddress);
 
-        this.curator = CuratorFrameworkFactory.builder()
+        // Fetch the ensemble ourselves, Curator only logs errors thrown from the provider's start()
+        ensembleProvider.refresh();
+
+        CuratorFramework curator = CuratorFrameworkFactory.builder()
                 .ensembleProvider(ensembleProvider)
                 .retryPolicy(new ExponentialBackoffRetry(1000, 3))
                 .ensembleTracker(true)
+                .zkClientConfig(clientConfig())
                 .build();
-        this.curator.start();
+        curator.start();
 
-        // Add a watch to update the ensemble when changes are detected
+        // The watch has to be set before registering, our own registration is what
+        // triggers the reconfig that adds this node to the ensemble
+        watchEnsemble(curator, ensembleProvider);
+
+        // We don't need to register the leader
+        if(!"true".equals(System.getenv("is_leader"))) {
+            String zookeeperServer = System.getenv("node_address") + ":2181" + ":" + System.getenv("node_id");
+            registerMember(curator, zookeeperServer);
+        } else {
+            log.info("This node is the leader, not registering with ZooKeeper");
+        }
+
+        return curator;
+    }
+
+    // The ensemble doesn't authenticate clients, so keep ZooKeeper's SASL client off unless it's
+    // asked for explicitly. It would only probe for a JAAS configuration, which is loaded reflectively
+    static ZKClientConfig clientConfig() {
+        ZKClientConfig config = new ZKClientConfig();
+        if (System.getProperty(ZKClientConfig.ENABLE_CLIENT_SASL_KEY) == null) {
+            config.setProperty(ZKClientConfig.ENABLE_CLIENT_SASL_KEY, "false");
+        }
+        return config;
+    }
+
+    // Add a watch to update the ensemble when changes are detected
+    private void watchEnsemble(CuratorFramework curator, DynamicEnsembleProvider ensembleProvider) {
         try {
             curator.getChildren().usingWatcher((Watcher) event -> {
                 if (event.getType() == Watcher.Event.EventType.NodeChildrenChanged) {
                     try {
                         log.debug("Refreshing ensemble due to watch event");
-                        ensembleProvider.start();
+                        ensembleProvider.refresh();
 
                         // Reconfigure ZooKeeper with the new ensemble
                         List<String> newEnsemble = getReconfigEnsembleString(ensembleProvider.getEnsembleNodes());
@@ -62,15 +105,6 @@ public class ZooKeeperClient {
             log.error("Error setting watch on ensemble path", e);
             throw new RuntimeException(e);
         }
-
-
-        // We don't need to register the leader
-        if(!"true".equals(System.getenv("is_leader"))) {
-            String zookeeperServer = System.getenv("node_address") + ":2181" + ":" + System.getenv("node_id");
-            registerMember(zookeeperServer);
-        } else {
-            log.info("This node is the leader, not registering with ZooKeeper");
-        }
     }
 
 //Specifying the client port
@@ -125,6 +159,10 @@ public class ZooKeeperClient {
     }
 
     public void registerMember(String memberAddress) {
+        registerMember(getCurator(), memberAddress);
+    }
+
+    private void registerMember(CuratorFramework curator, String memberAddress) {
         String memberId = "server-" + System.currentTimeMillis();  // Unique ID for this member
         try {
 
@@ -0,0 +1,61 @@
+package edu.duke.cs.is_v2;
+
+import edu.duke.cs.is_v2.controller.UrlShortenerController;
+import org.apache.logging.slf4j.MDCContextMap;
+import org.apache.logging.slf4j.SLF4JLoggerContextFactory;
+import org.apache.zookeeper.client.ZKClientConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeRuntimeHintsTests {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@BeforeEach
+	void registerHints() {
+		new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+	}
+
+	@Test
+	void clientSocketConstructor() throws Exception {
+		Class<?> socket = Class.forName("org.apache.zookeeper.ClientCnxnSocketNIO");
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onConstructor(socket.getDeclaredConstructor(ZKClientConfig.class))).accepts(hints);
+	}
+
+	@Test
+	void curatorCompatibilityLookups() throws Exception {
+		Class<?> multipleAddresses = Class.forName("org.apache.zookeeper.server.quorum.MultipleAddresses");
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onMethod(multipleAddresses.getMethod("getReachableOrOne"))).accepts(hints);
+
+		Class<?> quorumServer = Class.forName("org.apache.zookeeper.server.quorum.QuorumPeer$QuorumServer");
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onField(quorumServer.getField("addr"))).accepts(hints);
+
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onType(Class.forName("org.apache.zookeeper.AddWatchMode"))).accepts(hints);
+	}
+
+	@Test
+	void log4jProviderClasses() throws Exception {
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onConstructor(SLF4JLoggerContextFactory.class.getDeclaredConstructor())).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onConstructor(MDCContextMap.class.getDeclaredConstructor())).accepts(hints);
+	}
+
+	@Test
+	void jsonTypes() throws Exception {
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onMethod(UrlAccessor.UrlAttemptsPair.class.getMethod("url"))).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection()
+				.onMethod(UrlShortenerController.UrlRequest.class.getMethod("setUrl", String.class)))
+				.accepts(hints);
+	}
+
+}
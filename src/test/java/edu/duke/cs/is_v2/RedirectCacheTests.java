@@ -0,0 +1,159 @@
+package edu.duke.cs.is_v2;
+
+import org.apache.zookeeper.data.Stat;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedirectCacheTests {
+
+	// 2024-11-01T12:00:00Z
+	private static final long MTIME_SECONDS = 1730462400L;
+
+	private static UrlAccessor.StoredUrl storedUrl(RedirectOverrides overrides) {
+		Stat stat = new Stat();
+		stat.setMzxid(0x1a2bL);
+		stat.setMtime(MTIME_SECONDS * 1000 + 789);
+		return new UrlAccessor.StoredUrl("https://example.org/café", stat, overrides);
+	}
+
+	private static RedirectCache.CachedRedirect cached(RedirectPolicy policy) {
+		return RedirectCache.precompute(storedUrl(null), policy);
+	}
+
+	private static String httpDate(long epochSeconds) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochSecond(epochSeconds).atZone(ZoneOffset.UTC));
+	}
+
+	@Test
+	void precomputedRedirectHeaders() {
+		ResponseEntity<Void> redirect = cached(new RedirectPolicy(308, 3600)).respond(null, null);
+
+		assertThat(redirect.getStatusCode()).isEqualTo(HttpStatus.PERMANENT_REDIRECT);
+		HttpHeaders headers = redirect.getHeaders();
+		assertThat(headers.getFirst(HttpHeaders.LOCATION)).isEqualTo("https://example.org/caf%C3%A9");
+		assertThat(headers.getETag()).isEqualTo("\"1a2b\"");
+		assertThat(headers.getLastModified()).isEqualTo(MTIME_SECONDS * 1000);
+		assertThat(headers.getCacheControl()).isEqualTo("max-age=3600, public");
+	}
+
+	@Test
+	void noCacheControlWithoutMaxAge() {
+		ResponseEntity<Void> redirect = cached(new RedirectPolicy(302, 0)).respond(null, null);
+
+		assertThat(redirect.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+		assertThat(redirect.getHeaders().getCacheControl()).isNull();
+	}
+
+	@Test
+	void notModifiedKeepsValidatorsAndCacheControl() {
+		ResponseEntity<Void> notModified = cached(new RedirectPolicy(308, 3600)).respond("\"1a2b\"", null);
+
+		assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(notModified.getHeaders().getETag()).isEqualTo("\"1a2b\"");
+		assertThat(notModified.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+		assertThat(notModified.getHeaders().getLocation()).isNull();
+	}
+
+	@Test
+	void ifNoneMatch() {
+		RedirectCache.CachedRedirect cached = cached(new RedirectPolicy(302, 0));
+
+		assertThat(cached.respond("\"1a2b\"", null).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(cached.respond("*", null).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(cached.respond("W/\"1a2b\"", null).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(cached.respond("\"ffff\", \"1a2b\"", null).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(cached.respond("\"ffff\"", null).getStatusCode()).isEqualTo(HttpStatus.FOUND);
+		assertThat(cached.respond("\"11a2b\"", null).getStatusCode()).isEqualTo(HttpStatus.FOUND);
+	}
+
+	@Test
+	void ifNoneMatchTakesPrecedenceOverIfModifiedSince() {
+		RedirectCache.CachedRedirect cached = cached(new RedirectPolicy(302, 0));
+		String lastModified = httpDate(MTIME_SECONDS);
+
+		assertThat(cached.respond("\"ffff\"", lastModified).getStatusCode()).isEqualTo(HttpStatus.FOUND);
+		assertThat(cached.respond("\"1a2b\"", httpDate(MTIME_SECONDS - 60)).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+	}
+
+	@Test
+	void ifModifiedSince() {
+		RedirectCache.CachedRedirect cached = cached(new RedirectPolicy(302, 0));
+
+		// Our own Last-Modified echoed back
+		String lastModified = cached.respond(null, null).getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+		assertThat(cached.respond(null, lastModified).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+		assertThat(cached.respond(null, httpDate(MTIME_SECONDS)).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(cached.respond(null, httpDate(MTIME_SECONDS + 60)).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(cached.respond(null, httpDate(MTIME_SECONDS - 60)).getStatusCode()).isEqualTo(HttpStatus.FOUND);
+		assertThat(cached.respond(null, "yesterday").getStatusCode()).isEqualTo(HttpStatus.FOUND);
+	}
+
+	@Test
+	void secondCallIsServedFromTheCache() {
+		UrlAccessor urlAccessor = mock(UrlAccessor.class);
+		when(urlAccessor.getStoredUrl("abc")).thenReturn(storedUrl(null));
+		RedirectCache redirectCache = new RedirectCache(urlAccessor, 302, 0);
+
+		ResponseEntity<Void> first = redirectCache.redirect("abc", null, null);
+		ResponseEntity<Void> second = redirectCache.redirect("abc", null, null);
+
+		assertThat(second).isSameAs(first);
+		verify(urlAccessor, times(1)).getStoredUrl("abc");
+	}
+
+	@Test
+	void unknownCodesAreNotCached() {
+		UrlAccessor urlAccessor = mock(UrlAccessor.class);
+		RedirectCache redirectCache = new RedirectCache(urlAccessor, 302, 0);
+
+		assertThat(redirectCache.redirect("abc", null, null)).isNull();
+
+		// Created in the meantime
+		when(urlAccessor.getStoredUrl("abc")).thenReturn(storedUrl(null));
+		assertThat(redirectCache.redirect("abc", null, null).getStatusCode()).isEqualTo(HttpStatus.FOUND);
+		verify(urlAccessor, times(2)).getStoredUrl("abc");
+	}
+
+	@Test
+	void overridesAreMergedWithTheGlobalPolicy() {
+		UrlAccessor urlAccessor = mock(UrlAccessor.class);
+		when(urlAccessor.getStoredUrl("plain")).thenReturn(storedUrl(null));
+		when(urlAccessor.getStoredUrl("maxAge")).thenReturn(storedUrl(new RedirectOverrides(null, 60L)));
+		when(urlAccessor.getStoredUrl("status")).thenReturn(storedUrl(new RedirectOverrides(301, null)));
+		RedirectCache redirectCache = new RedirectCache(urlAccessor, 308, 3600);
+
+		ResponseEntity<Void> plain = redirectCache.redirect("plain", null, null);
+		assertThat(plain.getStatusCode()).isEqualTo(HttpStatus.PERMANENT_REDIRECT);
+		assertThat(plain.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+
+		ResponseEntity<Void> maxAge = redirectCache.redirect("maxAge", null, null);
+		assertThat(maxAge.getStatusCode()).isEqualTo(HttpStatus.PERMANENT_REDIRECT);
+		assertThat(maxAge.getHeaders().getCacheControl()).isEqualTo("max-age=60, public");
+
+		ResponseEntity<Void> status = redirectCache.redirect("status", null, null);
+		assertThat(status.getStatusCode()).isEqualTo(HttpStatus.MOVED_PERMANENTLY);
+		assertThat(status.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+	}
+
+	@Test
+	void responsesAreShared() {
+		RedirectCache.CachedRedirect cached = cached(new RedirectPolicy(302, 0));
+
+		assertThat(cached.respond(null, null)).isSameAs(cached.respond(null, null));
+		assertThat(cached.respond("*", null)).isSameAs(cached.respond("\"1a2b\"", null));
+	}
+
+}
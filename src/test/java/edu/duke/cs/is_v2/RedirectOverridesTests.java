@@ -0,0 +1,33 @@
+package edu.duke.cs.is_v2;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RedirectOverridesTests {
+
+	@Test
+	void rejectsInvalidValues() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RedirectOverrides(200, null));
+		assertThatIllegalArgumentException().isThrownBy(() -> new RedirectOverrides(null, -1L));
+	}
+
+	@Test
+	void encodeDecodeRoundTrip() {
+		for (RedirectOverrides overrides : new RedirectOverrides[] {
+				new RedirectOverrides(308, 86400L),
+				new RedirectOverrides(301, null),
+				new RedirectOverrides(null, 60L),
+				new RedirectOverrides(null, null)}) {
+			assertThat(RedirectOverrides.decode(overrides.encode())).isEqualTo(overrides);
+		}
+	}
+
+	@Test
+	void encodesMissingFieldsAsEmpty() {
+		assertThat(new RedirectOverrides(301, null).encode()).isEqualTo("301:");
+		assertThat(new RedirectOverrides(null, 60L).encode()).isEqualTo(":60");
+	}
+
+}
@@ -0,0 +1,44 @@
+package edu.duke.cs.is_v2;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RedirectPolicyTests {
+
+	@Test
+	void acceptsRedirectStatuses() {
+		for (int status : new int[] {301, 302, 303, 307, 308}) {
+			assertThat(new RedirectPolicy(status, 0).status()).isEqualTo(status);
+		}
+	}
+
+	@Test
+	void rejectsOtherStatuses() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RedirectPolicy(200, 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> new RedirectPolicy(304, 0));
+	}
+
+	@Test
+	void rejectsNegativeMaxAge() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RedirectPolicy(302, -1));
+	}
+
+	@Test
+	void onlyCacheableWithMaxAge() {
+		assertThat(new RedirectPolicy(302, 0).isCacheable()).isFalse();
+		assertThat(new RedirectPolicy(302, 60).isCacheable()).isTrue();
+	}
+
+	@Test
+	void overridesTakePrecedenceFieldByField() {
+		RedirectPolicy global = new RedirectPolicy(308, 3600);
+
+		assertThat(global.withOverrides(null)).isEqualTo(global);
+		assertThat(global.withOverrides(new RedirectOverrides(null, 60L))).isEqualTo(new RedirectPolicy(308, 60));
+		assertThat(global.withOverrides(new RedirectOverrides(301, null))).isEqualTo(new RedirectPolicy(301, 3600));
+		assertThat(global.withOverrides(new RedirectOverrides(302, 0L))).isEqualTo(new RedirectPolicy(302, 0));
+	}
+
+}
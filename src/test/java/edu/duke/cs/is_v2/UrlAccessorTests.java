@@ -0,0 +1,44 @@
+package edu.duke.cs.is_v2;
+
+import org.apache.zookeeper.data.Stat;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class UrlAccessorTests {
+
+	private final Stat stat = new Stat();
+
+	@Test
+	void urlWithoutOverridesIsStoredAsIs() {
+		String data = UrlAccessor.encode("https://example.org/a?b=c:d", null);
+
+		assertThat(data).isEqualTo("https://example.org/a?b=c:d");
+		assertThat(UrlAccessor.decode(data, stat))
+				.isEqualTo(new UrlAccessor.StoredUrl("https://example.org/a?b=c:d", stat, null));
+	}
+
+	@Test
+	void overridesRoundTrip() {
+		for (RedirectOverrides overrides : new RedirectOverrides[] {
+				new RedirectOverrides(308, 86400L),
+				new RedirectOverrides(301, null),
+				new RedirectOverrides(null, 60L)}) {
+			String data = UrlAccessor.encode("https://example.org/a:8080", overrides);
+
+			assertThat(UrlAccessor.decode(data, stat))
+					.isEqualTo(new UrlAccessor.StoredUrl("https://example.org/a:8080", stat, overrides));
+		}
+	}
+
+	@Test
+	void rejectsLineBreaksBeforeTouchingZooKeeper() {
+		// No ZooKeeperClient wired in, so this fails with an NPE if the check doesn't come first
+		UrlAccessor urlAccessor = new UrlAccessor();
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> urlAccessor.generateShortened("https://example.org/a\n308:", null));
+	}
+
+}